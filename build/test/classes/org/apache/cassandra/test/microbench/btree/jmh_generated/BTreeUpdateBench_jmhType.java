@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.btree.jmh_generated;
+public class BTreeUpdateBench_jmhType extends BTreeUpdateBench_jmhType_B3 {
+}
+
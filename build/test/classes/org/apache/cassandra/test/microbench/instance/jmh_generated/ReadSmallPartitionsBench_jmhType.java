@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.instance.jmh_generated;
+public class ReadSmallPartitionsBench_jmhType extends ReadSmallPartitionsBench_jmhType_B3 {
+}
+
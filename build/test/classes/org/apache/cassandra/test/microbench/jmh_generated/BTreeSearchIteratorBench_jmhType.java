@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class BTreeSearchIteratorBench_jmhType extends BTreeSearchIteratorBench_jmhType_B3 {
+}
+
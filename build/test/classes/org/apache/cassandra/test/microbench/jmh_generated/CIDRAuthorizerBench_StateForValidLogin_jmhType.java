@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class CIDRAuthorizerBench_StateForValidLogin_jmhType extends CIDRAuthorizerBench_StateForValidLogin_jmhType_B3 {
+}
+
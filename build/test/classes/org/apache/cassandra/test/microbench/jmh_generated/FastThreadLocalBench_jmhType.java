@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class FastThreadLocalBench_jmhType extends FastThreadLocalBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class MetadataCollectorBench_jmhType extends MetadataCollectorBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class VIntCodingBench_jmhType extends VIntCodingBench_jmhType_B3 {
+}
+
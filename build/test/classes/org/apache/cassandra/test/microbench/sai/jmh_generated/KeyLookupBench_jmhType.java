@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.sai.jmh_generated;
+public class KeyLookupBench_jmhType extends KeyLookupBench_jmhType_B3 {
+}
+
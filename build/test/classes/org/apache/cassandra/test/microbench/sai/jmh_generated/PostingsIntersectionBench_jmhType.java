@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.sai.jmh_generated;
+public class PostingsIntersectionBench_jmhType extends PostingsIntersectionBench_jmhType_B3 {
+}
+